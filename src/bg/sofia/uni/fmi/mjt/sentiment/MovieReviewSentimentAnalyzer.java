@@ -17,11 +17,14 @@ public class MovieReviewSentimentAnalyzer implements SentimentAnalyzer {
 
     private static final String WORDS_SEPARATOR = "[^\\w']";
     private static final char APOSTROPHE = '\'';
+    private static final char UNDERSCORE = '_';
+    private static final char LAST_ASCII_CHARACTER = 127;
     private static final int MIN_WORD_LENGTH = 2;
     private static final String SPACE = " ";
     private static Set<String> stopWords;  // Stopwords will be the same in every object, make them static to save memory
     private final Writer reviewsOut;
     private final Map<String, Double> sentimentScore;
+    private final SentimentIndex sentimentIndex;
     private final Map<String, Integer> countWords;
     private List<Content> reviews;
 
@@ -30,59 +33,48 @@ public class MovieReviewSentimentAnalyzer implements SentimentAnalyzer {
         readReviews(reviewsIn);
         this.reviewsOut = reviewsOut;
         sentimentScore = new HashMap<>();
+        sentimentIndex = new SentimentIndex();
         countWords = new HashMap<>();
         calculateSentimentScoreAllWords();
     }
 
     @Override
     public double getReviewSentiment(String review) {
-        String[] words = review.strip().toLowerCase().split(WORDS_SEPARATOR);
+        // Walks the words in place instead of splitting, so scoring a review doesn't allocate
         double sum = 0;
         int counter = 0;
-        int flag = 0;
+        int wordBeginning = -1;
 
-        for (String currWord : words) {
-            if (sentimentScore.containsKey(currWord.toLowerCase())) {
-                sum += sentimentScore.get(currWord.toLowerCase());
-                counter++;
-                flag = 1;
+        for (int i = 0; i <= review.length(); i++) {
+            if (i < review.length() && isWordCharacter(Character.toLowerCase(review.charAt(i)))) {
+                if (wordBeginning < 0) {
+                    wordBeginning = i;
+                }
+            } else if (wordBeginning >= 0) {
+                double wordScore = sentimentIndex.getOrDefault(review, wordBeginning, i, Rating.unknown.getRating());
+                if (wordScore != Rating.unknown.getRating()) {
+                    sum += wordScore;
+                    counter++;
+                }
+                wordBeginning = -1;
             }
         }
 
-        if (flag == 0) {
-            return Rating.unknown.getRating();
-        }
-
         if (counter == 0) {
-            throw new IllegalStateException("Error: dividing by zero");
+            return Rating.unknown.getRating();
         }
 
         return sum / counter;
     }
 
     @Override
-    public String getReviewSentimentAsName(String review) {
-        double sentimentScore = getReviewSentiment(review.toLowerCase());
-
-        if (sentimentScore == Rating.unknown.getRating()) {
-            return Rating.unknown.name();
-        }
-
-        long roundedSentimentScore = Math.round(sentimentScore);
-
-        if (roundedSentimentScore == Rating.negative.getRating()) {
-            return Rating.negative.name();
-        } else if (roundedSentimentScore == Rating.somewhatNegative.getRating()) {
-            return Rating.somewhatNegative.name();
-        } else if (roundedSentimentScore == Rating.neutral.getRating()) {
-            return Rating.neutral.name();
-        } else if (roundedSentimentScore == Rating.somewhatPositive.getRating()) {
-            return Rating.somewhatPositive.name();
-        } else if (roundedSentimentScore == Rating.positive.getRating()) {
-            return Rating.positive.name();
-        }
+    public Rating getReviewSentimentAsRating(String review) {
+        return Rating.getRatingFromSentiment(getReviewSentiment(review));
+    }
 
-        return null;
+    @Override
+    public String getReviewSentimentAsName(String review) {
+        return getReviewSentimentAsRating(review).name();
     }
 
     @Override
@@ -199,6 +191,11 @@ public class MovieReviewSentimentAnalyzer implements SentimentAnalyzer {
                 .collect(Collectors.toList());
     }
 
+    private static boolean isWordCharacter(char c) {
+        // Mirrors WORDS_SEPARATOR, where \w matches ASCII letters, digits and underscore only
+        return c <= LAST_ASCII_CHARACTER && (Character.isLetterOrDigit(c) || c == UNDERSCORE) || c == APOSTROPHE;
+    }
+
     private boolean isValidWord(String word) {
         int counter = 0;
 
@@ -298,13 +295,18 @@ public class MovieReviewSentimentAnalyzer implements SentimentAnalyzer {
                 if (acceptSentimentWord(currWord)) {
 
                     double sentimentScoreResult = calculateSentimentScoreForWord(currWord.toLowerCase());
-                    sentimentScore.put(currWord.toLowerCase(), sentimentScoreResult);
+                    putSentimentScore(currWord.toLowerCase(), sentimentScoreResult);
                     updateWordCount(currWord);
                 }
             }
         }
     }
 
+    private void putSentimentScore(String word, double score) {
+        sentimentScore.put(word, score);
+        sentimentIndex.put(word, score);
+    }
+
     private List<String> findFirstNElementsInList(List<Map.Entry<String, Double>> sortedEntry, int n) {
         List<String> result = new ArrayList<>();
         int counter = 0;
@@ -328,13 +330,13 @@ public class MovieReviewSentimentAnalyzer implements SentimentAnalyzer {
 
                 double newSentimentScore = calculateSentimentScoreForWord(currWord);
 
-                sentimentScore.put(currWord.toLowerCase(), newSentimentScore);
+                putSentimentScore(currWord.toLowerCase(), newSentimentScore);
                 updateWordCount(currWord);
             } else if (acceptSentimentWord(currWord)) {
 
                 double sentimentScoreValue = calculateSentimentScoreForWord(currWord);
 
-                sentimentScore.put(currWord.toLowerCase(), sentimentScoreValue);
+                putSentimentScore(currWord.toLowerCase(), sentimentScoreValue);
                 updateWordCount(currWord);
             }
         }
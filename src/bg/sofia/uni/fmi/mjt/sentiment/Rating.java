@@ -8,6 +8,15 @@ public enum Rating {
     somewhatPositive(3),
     positive(4);
 
+    // Indexed by rating value shifted by the lowest value, so lookups don't clone values() on every call
+    private static final Rating[] RATINGS_BY_VALUE = new Rating[positive.rating - unknown.rating + 1];
+
+    static {
+        for (Rating type : values()) {
+            RATINGS_BY_VALUE[type.rating - unknown.rating] = type;
+        }
+    }
+
     private final int rating;
 
     Rating(int rating) {
@@ -15,13 +24,19 @@ public enum Rating {
     }
 
     public static Rating getRatingFromValue(int value) {
-        for (Rating type : values()) {
-            if (type.getRating() == value) {
-                return type;
-            }
+        if (value < unknown.rating || value > positive.rating) {
+            return null;
+        }
+
+        return RATINGS_BY_VALUE[value - unknown.rating];
+    }
+
+    public static Rating getRatingFromSentiment(double sentiment) {
+        if (sentiment == unknown.rating) {
+            return unknown;
         }
 
-        return null;
+        return getRatingFromValue((int) Math.round(sentiment));
     }
 
     int getRating() {
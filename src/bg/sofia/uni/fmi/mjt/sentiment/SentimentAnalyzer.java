@@ -6,6 +6,8 @@ public interface SentimentAnalyzer {
 
     double getReviewSentiment(String review);
 
+    Rating getReviewSentimentAsRating(String review);
+
     String getReviewSentimentAsName(String review);
 
     double getWordSentiment(String word);
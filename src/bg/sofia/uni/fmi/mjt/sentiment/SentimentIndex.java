@@ -0,0 +1,87 @@
+package bg.sofia.uni.fmi.mjt.sentiment;
+
+// Open-addressing table of lowercase words to sentiment scores, which can be probed with a range of
+// a review's characters, so scoring a review doesn't need to split it or lowercase it into new strings
+class SentimentIndex {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int MAX_LOAD_DIVISOR = 2;
+    private static final int HASH_MULTIPLIER = 31;
+    private static final int HASH_SPREAD_SHIFT = 16;
+
+    private String[] words;
+    private double[] scores;
+    private int size;
+
+    SentimentIndex() {
+        words = new String[INITIAL_CAPACITY];
+        scores = new double[INITIAL_CAPACITY];
+    }
+
+    void put(String word, double score) {
+        int slot = findSlot(word, 0, word.length(), word.hashCode());
+
+        if (words[slot] == null) {
+            words[slot] = word;
+            size++;
+        }
+        scores[slot] = score;
+
+        if (size > words.length / MAX_LOAD_DIVISOR) {
+            resize();
+        }
+    }
+
+    double getOrDefault(String text, int start, int end, double defaultValue) {
+        int hash = 0;
+
+        for (int i = start; i < end; i++) {
+            hash = HASH_MULTIPLIER * hash + Character.toLowerCase(text.charAt(i));
+        }
+
+        int slot = findSlot(text, start, end, hash);
+
+        return words[slot] == null ? defaultValue : scores[slot];
+    }
+
+    private int findSlot(String text, int start, int end, int hash) {
+        int mask = words.length - 1;
+        int slot = (hash ^ (hash >>> HASH_SPREAD_SHIFT)) & mask;
+
+        while (words[slot] != null && !matchesIgnoringCase(words[slot], text, start, end)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private boolean matchesIgnoringCase(String word, String text, int start, int end) {
+        if (word.length() != end - start) {
+            return false;
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            if (word.charAt(i) != Character.toLowerCase(text.charAt(start + i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private void resize() {
+        String[] oldWords = words;
+        double[] oldScores = scores;
+
+        words = new String[oldWords.length * 2];
+        scores = new double[oldWords.length * 2];
+
+        for (int i = 0; i < oldWords.length; i++) {
+            if (oldWords[i] != null) {
+                int slot = findSlot(oldWords[i], 0, oldWords[i].length(), oldWords[i].hashCode());
+                words[slot] = oldWords[i];
+                scores[slot] = oldScores[i];
+            }
+        }
+    }
+}
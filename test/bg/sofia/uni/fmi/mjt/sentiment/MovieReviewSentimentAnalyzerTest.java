@@ -14,12 +14,15 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.List;
 
 public class MovieReviewSentimentAnalyzerTest {
 
     private static final String stopWordsFile = "stopwords.txt";
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
     private Reader readStopWords;
     private Reader readReview;
     private Writer writeReview;
@@ -93,6 +96,49 @@ public class MovieReviewSentimentAnalyzerTest {
                 "Error: The sentiment's name was expected to be unknown but is not");
     }
 
+    @Test
+    void testGetReviewSentimentAsRatingPositive() {
+        assertEquals(Rating.positive, analyzer.getReviewSentimentAsRating("This film was one of the most remarkable and interesting i've watched so far"),
+                "Error: The sentiment's rating was expected to be positive but is not");
+    }
+
+    @Test
+    void testGetReviewSentimentAsRatingUnknown() {
+        assertEquals(Rating.unknown, analyzer.getReviewSentimentAsRating("The show for Cristiano Ronaldo is so brilliantly-presented"),
+                "Error: The sentiment's rating was expected to be unknown but is not");
+    }
+
+    @Test
+    void testGetReviewSentimentAsRatingAfterAppendingReview() {
+        assertEquals(Rating.unknown, analyzer.getReviewSentimentAsRating("Sunday NIGHT"),
+                "Error: The sentiment's rating was expected to be unknown before appending the review");
+
+        analyzer.appendReview("This is a really good film for Sunday night",3);
+        assertEquals(Rating.somewhatPositive, analyzer.getReviewSentimentAsRating("Sunday NIGHT"),
+                "Error: The sentiment's rating was expected to be somewhat positive after appending the review");
+    }
+
+    @Test
+    void testGetReviewSentimentAsNameDoesNotAllocate() {
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        String review = "This film was one of the most remarkable and interesting i've watched so far";
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            analyzer.getReviewSentimentAsName(review);
+        }
+
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            analyzer.getReviewSentimentAsName(review);
+        }
+        long allocatedAfter = threadBean.getThreadAllocatedBytes(threadId);
+
+        assertTrue(allocatedAfter - allocatedBefore < MEASURED_ITERATIONS,
+                "Error: Classifying a review was expected to allocate zero bytes per call, but allocated " +
+                        (allocatedAfter - allocatedBefore) + " bytes in " + MEASURED_ITERATIONS + " calls");
+    }
+
     @Test
     void testGetWordFrequencySuccessfully() {
         assertEquals(3, analyzer.getWordFrequency("Good"),